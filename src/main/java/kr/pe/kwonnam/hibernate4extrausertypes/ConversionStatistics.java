@@ -0,0 +1,63 @@
+package kr.pe.kwonnam.hibernate4extrausertypes;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * 하나의 이름으로 등록된 UserType의 읽기/쓰기 변환 횟수와 소요 시간 통계.
+ * 소요 시간에는 JDBC ResultSet/PreparedStatement 호출 시간도 포함된다.
+ */
+public class ConversionStatistics {
+    private final String typeName;
+
+    private final AtomicLong readCount = new AtomicLong();
+    private final AtomicLong readNanos = new AtomicLong();
+
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+
+    public ConversionStatistics(String typeName) {
+        this.typeName = typeName;
+    }
+
+    void recordRead(long elapsedNanos) {
+        readCount.incrementAndGet();
+        readNanos.addAndGet(elapsedNanos);
+    }
+
+    void recordWrite(long elapsedNanos) {
+        writeCount.incrementAndGet();
+        writeNanos.addAndGet(elapsedNanos);
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public long getReadCount() {
+        return readCount.get();
+    }
+
+    public long getReadNanos() {
+        return readNanos.get();
+    }
+
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    public long getWriteNanos() {
+        return writeNanos.get();
+    }
+
+    public long getTotalNanos() {
+        return getReadNanos() + getWriteNanos();
+    }
+
+    @Override
+    public String toString() {
+        return format("%s : reads=%d (%d ns), writes=%d (%d ns)",
+            typeName, getReadCount(), getReadNanos(), getWriteCount(), getWriteNanos());
+    }
+}
@@ -0,0 +1,226 @@
+package kr.pe.kwonnam.hibernate4extrausertypes;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.source.MetadataImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.usertype.CompositeUserType;
+import org.hibernate.usertype.UserType;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 미리 설정된 UserType 인스턴스들을 이름으로 한 번만 등록하고,
+ * SessionFactory가 닫힐 때 이름별 변환 통계를 로그로 남기는 Integrator.
+ *
+ * Hibernate 4.2에는 TypeContributor가 없고 Integrator는 매핑 검증 이후에 호출되므로,
+ * 타입 등록은 SessionFactory를 만들기 전에 {@link #registerTypeOverrides(Configuration)}로 직접 해야 한다.
+ *
+ * <pre>
+ * ExtraUserTypesIntegrator integrator = new ExtraUserTypesIntegrator()
+ *     .registerEnumType("sex-by-int", Sex.class, "toInt", "fromInt");
+ * integrator.registerTypeOverrides(configuration);
+ *
+ * BootstrapServiceRegistry bootstrapServiceRegistry = new BootstrapServiceRegistryBuilder().with(integrator).build();
+ * ServiceRegistry serviceRegistry = new ServiceRegistryBuilder(bootstrapServiceRegistry)
+ *     .applySettings(configuration.getProperties()).buildServiceRegistry();
+ * SessionFactory sessionFactory = configuration.buildSessionFactory(serviceRegistry);
+ * </pre>
+ *
+ * 엔티티에서는 {@code @Type(type = "sex-by-int")} 처럼 이름만 지정하면 된다.
+ * 등록된 타입은 이미 파라미터 설정이 끝난 인스턴스이므로 {@code @Type}의 {@code parameters}는 적용되지 않고 오류 없이 무시된다.
+ * 다른 파라미터가 필요하면 해당 파라미터로 설정한 인스턴스를 다른 이름으로 {@link #registerUserType(String, UserType)} 해야 한다.
+ *
+ * 변환 통계는 컬럼(매핑)별이 아니라 등록된 이름별로 수집된다. 예를 들어 {@code yn-boolean}을 사용하는 모든 컬럼은
+ * 하나의 통계로 합쳐진다. 특정 컬럼의 비용을 따로 보려면 그 컬럼용 인스턴스를 별도의 이름으로 등록해서 사용한다.
+ */
+public class ExtraUserTypesIntegrator implements Integrator {
+    private static final CoreMessageLogger LOGGER = Logger.getMessageLogger(CoreMessageLogger.class, ExtraUserTypesIntegrator.class.getName());
+
+    /** "Y"/"N" 문자열 컬럼을 Boolean으로 매핑하는 타입 이름 */
+    public static final String YN_BOOLEAN = "yn-boolean";
+
+    /** "yyyyMMdd" 문자열 컬럼을 Date로 매핑하는 타입 이름 */
+    public static final String YYYYMMDD_DATE = "yyyyMMdd-date";
+
+    /** "yyyyMMddHHmmss" 문자열 컬럼을 Date로 매핑하는 타입 이름 */
+    public static final String YYYYMMDDHHMMSS_DATE = "yyyyMMddHHmmss-date";
+
+    /** "yyyyMMdd", "HHmmss" 두 문자열 컬럼을 하나의 Date로 매핑하는 타입 이름 */
+    public static final String YYYYMMDD_HHMMSS_DATETIME = "yyyyMMdd-HHmmss-datetime";
+
+    /**
+     * {@code true}이면 UserType을 {@link StatisticsCollectingUserType}으로 감싸서 등록한다.
+     */
+    private final boolean collectStatistics;
+
+    private final Map<String, UserType> userTypes = new LinkedHashMap<>();
+
+    private final Map<String, CompositeUserType> compositeUserTypes = new LinkedHashMap<>();
+
+    private final List<ConversionStatistics> conversionStatistics = new ArrayList<>();
+
+    /**
+     * 통계를 수집하지 않는 Integrator를 생성한다.
+     */
+    public ExtraUserTypesIntegrator() {
+        this(false);
+    }
+
+    /**
+     * @param collectStatistics {@code true}이면 변환마다 {@link System#nanoTime()} 호출과 공유 카운터 갱신이 추가되므로
+     *                          성능 분석을 할 때만 켠다.
+     */
+    public ExtraUserTypesIntegrator(boolean collectStatistics) {
+        this.collectStatistics = collectStatistics;
+        registerDefaultTypes();
+    }
+
+    private void registerDefaultTypes() {
+        registerUserType(YN_BOOLEAN, newStringBooleanUserType());
+        registerUserType(YYYYMMDD_DATE, newStringDateUserType("yyyyMMdd"));
+        registerUserType(YYYYMMDDHHMMSS_DATE, newStringDateUserType("yyyyMMddHHmmss"));
+
+        StringDateTimeCompositeUserType dateTimeUserType = new StringDateTimeCompositeUserType();
+        dateTimeUserType.setParameterValues(new Properties());
+        registerCompositeUserType(YYYYMMDD_HHMMSS_DATETIME, dateTimeUserType);
+    }
+
+    private StringBooleanUserType newStringBooleanUserType() {
+        StringBooleanUserType userType = new StringBooleanUserType();
+        userType.setParameterValues(new Properties());
+        return userType;
+    }
+
+    private StringDateUserType newStringDateUserType(String dateFormat) {
+        Properties parameters = new Properties();
+        parameters.setProperty(StringDateUserType.PARAM_FORMAT, dateFormat);
+
+        StringDateUserType userType = new StringDateUserType();
+        userType.setParameterValues(parameters);
+        return userType;
+    }
+
+    /**
+     * 파라미터 설정이 끝난 UserType을 name으로 등록한다. 같은 이름이 있으면 덮어쓴다.
+     */
+    public ExtraUserTypesIntegrator registerUserType(String name, UserType userType) {
+        compositeUserTypes.remove(name);
+
+        if (!collectStatistics) {
+            userTypes.put(name, userType);
+            return this;
+        }
+
+        ConversionStatistics statistics = new ConversionStatistics(name);
+        UserType previous = userTypes.put(name, StatisticsCollectingUserType.wrap(userType, statistics));
+        if (previous != null) {
+            conversionStatistics.remove(((StatisticsCollectingUserType) previous).getStatistics());
+        }
+        conversionStatistics.add(statistics);
+        return this;
+    }
+
+    /**
+     * {@link GenericEnumUserType}을 name으로 등록한다.
+     */
+    public ExtraUserTypesIntegrator registerEnumType(String name, Class<? extends Enum> enumClass, String identifierMethod, String valueOfMethod) {
+        Properties parameters = new Properties();
+        parameters.setProperty(GenericEnumUserType.PARAM_ENUM_CLASS, enumClass.getName());
+        parameters.setProperty(GenericEnumUserType.PARAM_IDENTIFIER_METHOD, identifierMethod);
+        parameters.setProperty(GenericEnumUserType.PARAM_VALUE_OF_METHOD, valueOfMethod);
+
+        GenericEnumUserType userType = new GenericEnumUserType();
+        userType.setParameterValues(parameters);
+        return registerUserType(name, userType);
+    }
+
+    /**
+     * 파라미터 설정이 끝난 CompositeUserType을 name으로 등록한다. CompositeUserType은 통계를 수집하지 않는다.
+     */
+    public ExtraUserTypesIntegrator registerCompositeUserType(String name, CompositeUserType compositeUserType) {
+        UserType previous = userTypes.remove(name);
+        if (previous instanceof StatisticsCollectingUserType) {
+            conversionStatistics.remove(((StatisticsCollectingUserType) previous).getStatistics());
+        }
+
+        compositeUserTypes.put(name, compositeUserType);
+        return this;
+    }
+
+    /**
+     * 등록된 모든 타입을 configuration의 TypeResolver에 등록한다.
+     * {@link Configuration#buildSessionFactory} 호출 전에 불러야 한다.
+     */
+    public void registerTypeOverrides(Configuration configuration) {
+        if (configuration == null) {
+            throw new IllegalArgumentException("configuration must not be null.");
+        }
+
+        for (Map.Entry<String, UserType> entry : userTypes.entrySet()) {
+            configuration.registerTypeOverride(entry.getValue(), new String[]{entry.getKey()});
+        }
+
+        for (Map.Entry<String, CompositeUserType> entry : compositeUserTypes.entrySet()) {
+            configuration.registerTypeOverride(entry.getValue(), new String[]{entry.getKey()});
+        }
+
+        LOGGER.debugv("ExtraUserTypesIntegrator registered user types {0} and composite user types {1}.",
+            userTypes.keySet(), compositeUserTypes.keySet());
+    }
+
+    /**
+     * 소요 시간 합계가 큰 순서로 정렬된 변환 통계.
+     */
+    public List<ConversionStatistics> getConversionStatistics() {
+        List<ConversionStatistics> sortedStatistics = new ArrayList<>(conversionStatistics);
+        Collections.sort(sortedStatistics, new Comparator<ConversionStatistics>() {
+            @Override
+            public int compare(ConversionStatistics o1, ConversionStatistics o2) {
+                return Long.compare(o2.getTotalNanos(), o1.getTotalNanos());
+            }
+        });
+        return sortedStatistics;
+    }
+
+    @Override
+    public void integrate(Configuration configuration, SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        for (String name : userTypes.keySet()) {
+            checkRegistered(configuration, name);
+        }
+        for (String name : compositeUserTypes.keySet()) {
+            checkRegistered(configuration, name);
+        }
+    }
+
+    private void checkRegistered(Configuration configuration, String name) {
+        if (configuration.getTypeResolver().basic(name) == null) {
+            LOGGER.warnv("Type [{0}] is not registered. Call registerTypeOverrides(Configuration) before building SessionFactory.", name);
+        }
+    }
+
+    @Override
+    public void integrate(MetadataImplementor metadata, SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // metamodel 방식은 지원하지 않는다.
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        if (!collectStatistics) {
+            return;
+        }
+
+        for (ConversionStatistics statistics : getConversionStatistics()) {
+            LOGGER.infov("Conversion statistics of {0}", statistics);
+        }
+    }
+}
@@ -8,8 +8,8 @@ import org.hibernate.type.TypeResolver;
 import org.hibernate.type.descriptor.JdbcTypeNameMapper;
 import org.hibernate.type.descriptor.sql.BasicBinder;
 import org.hibernate.type.descriptor.sql.BasicExtractor;
+import org.hibernate.usertype.EnhancedUserType;
 import org.hibernate.usertype.ParameterizedType;
-import org.hibernate.usertype.UserType;
 import org.jboss.logging.Logger;
 
 import java.io.Serializable;
@@ -18,6 +18,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
@@ -29,7 +31,7 @@ import static java.lang.String.format;
  *
  * @see <a href="https://developer.jboss.org/wiki/Java5EnumUserType">https://developer.jboss.org/wiki/Java5EnumUserType</a>
  */
-public class GenericEnumUserType implements UserType, ParameterizedType {
+public class GenericEnumUserType implements EnhancedUserType, ParameterizedType {
     private static final CoreMessageLogger LOGGER = Logger.getMessageLogger(CoreMessageLogger.class, GenericEnumUserType.class.getName());
     private static final CoreMessageLogger BINDER_LOGGER = Logger.getMessageLogger(CoreMessageLogger.class, BasicBinder.class.getName());
     private static final CoreMessageLogger EXTRACTOR_LOGGER = Logger.getMessageLogger(CoreMessageLogger.class, BasicExtractor.class.getName());
@@ -83,6 +85,21 @@ public class GenericEnumUserType implements UserType, ParameterizedType {
      */
     private int[] sqlTypes;
 
+    /**
+     * enum ordinal 순서로 미리 계산해둔 SQL 리터럴
+     */
+    private String[] sqlLiterals;
+
+    /**
+     * enum ordinal 순서로 미리 계산해둔 XML 문자열
+     */
+    private String[] xmlStrings;
+
+    /**
+     * XML 문자열로부터 enum을 찾기 위한 역방향 테이블
+     */
+    private Map<String, Enum> enumsByXmlString;
+
     @Override
     public void setParameterValues(Properties parameters) {
         if (parameters == null) {
@@ -93,6 +110,7 @@ public class GenericEnumUserType implements UserType, ParameterizedType {
         populateIdentifierMethodAndType(parameters);
         populateHibernateType();
         populateValueOfMethod(parameters);
+        populateConversionTables();
 
         LOGGER.debugv("GenericEnumUserType for enumClass {0} parameters initialized. identifierMethod : {1}, identifierType : {2}, valueOfMethod : {3}",
             enumClass.getName(), identifierMethod, identifierType.getName(), valueOfMethod);
@@ -139,6 +157,33 @@ public class GenericEnumUserType implements UserType, ParameterizedType {
         }
     }
 
+    private void populateConversionTables() {
+        Enum[] enumConstants = enumClass.getEnumConstants();
+        sqlLiterals = new String[enumConstants.length];
+        xmlStrings = new String[enumConstants.length];
+        enumsByXmlString = new HashMap<>(enumConstants.length * 2);
+
+        for (Enum enumConstant : enumConstants) {
+            Object identifier;
+            try {
+                identifier = identifierMethod.invoke(enumConstant, new Object[0]);
+            } catch (Exception exception) {
+                throw new HibernateException(format("Exception while invoking identifierMethod '%s' of enumeration class '%s'.", identifierMethod.getName(), enumClass), exception);
+            }
+
+            int ordinal = enumConstant.ordinal();
+            if (identifier == null) {
+                sqlLiterals[ordinal] = "null";
+                continue;
+            }
+
+            String xmlString = type.toString(identifier);
+            xmlStrings[ordinal] = xmlString;
+            sqlLiterals[ordinal] = identifier instanceof Number ? xmlString : UserTypeUtils.toSqlStringLiteral(xmlString);
+            enumsByXmlString.put(xmlString, enumConstant);
+        }
+    }
+
     public Class<? extends Enum> getEnumClass() {
         return enumClass;
     }
@@ -203,6 +248,56 @@ public class GenericEnumUserType implements UserType, ParameterizedType {
         }
     }
 
+    @Override
+    public String objectToSQLString(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        return sqlLiterals[enumClass.cast(value).ordinal()];
+    }
+
+    @Override
+    public String toXMLString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return xmlStrings[enumClass.cast(value).ordinal()];
+    }
+
+    /**
+     * 미리 계산해둔 테이블에서 먼저 찾고, 없으면 identifier type으로 변환한 뒤 valueOfMethod를 호출한다.
+     */
+    @Override
+    public Object fromXMLString(String xmlValue) {
+        if (xmlValue == null) {
+            return null;
+        }
+
+        Enum resultValue = enumsByXmlString.get(xmlValue);
+        if (resultValue != null) {
+            return resultValue;
+        }
+
+        Object identifier;
+        try {
+            identifier = type.fromString(xmlValue);
+        } catch (Exception exception) {
+            throw new HibernateException(format("Unknown XML value [%s] for enumeration class '%s'.", xmlValue, enumClass), exception);
+        }
+
+        Object valueOfResult;
+        try {
+            valueOfResult = valueOfMethod.invoke(enumClass, new Object[]{identifier});
+        } catch (Exception exception) {
+            throw new HibernateException(format("Exception while invoking valueOf method '%s' of enumeration class '%s'.", valueOfMethod.getName(), enumClass), exception);
+        }
+
+        if (valueOfResult == null) {
+            throw new HibernateException(format("Unknown XML value [%s] for enumeration class '%s'.", xmlValue, enumClass));
+        }
+        return valueOfResult;
+    }
+
     @Override
     public Object assemble(Serializable cached, Object owner) throws HibernateException {
         return cached;
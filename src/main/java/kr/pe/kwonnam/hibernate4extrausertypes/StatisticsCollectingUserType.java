@@ -0,0 +1,134 @@
+package kr.pe.kwonnam.hibernate4extrausertypes;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.usertype.EnhancedUserType;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * nullSafeGet/nullSafeSet 호출 횟수와 소요 시간을 {@link ConversionStatistics}에 기록하고
+ * 나머지는 모두 delegate에 위임하는 UserType.
+ * delegate가 {@link EnhancedUserType}이면 {@link #wrap(UserType, ConversionStatistics)}가 EnhancedUserType 구현체를 돌려준다.
+ */
+class StatisticsCollectingUserType implements UserType {
+    private final UserType delegate;
+
+    private final ConversionStatistics statistics;
+
+    StatisticsCollectingUserType(UserType delegate, ConversionStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    static StatisticsCollectingUserType wrap(UserType delegate, ConversionStatistics statistics) {
+        if (delegate instanceof EnhancedUserType) {
+            return new Enhanced((EnhancedUserType) delegate, statistics);
+        }
+        return new StatisticsCollectingUserType(delegate, statistics);
+    }
+
+    UserType getDelegate() {
+        return delegate;
+    }
+
+    ConversionStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public Object nullSafeGet(ResultSet rs, String[] names, SessionImplementor session, Object owner) throws HibernateException, SQLException {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.nullSafeGet(rs, names, session, owner);
+        } finally {
+            statistics.recordRead(System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, Object value, int index, SessionImplementor session) throws HibernateException, SQLException {
+        long startNanos = System.nanoTime();
+        try {
+            delegate.nullSafeSet(st, value, index, session);
+        } finally {
+            statistics.recordWrite(System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return delegate.sqlTypes();
+    }
+
+    @Override
+    public Class returnedClass() {
+        return delegate.returnedClass();
+    }
+
+    @Override
+    public boolean equals(Object x, Object y) throws HibernateException {
+        return delegate.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(Object x) throws HibernateException {
+        return delegate.hashCode(x);
+    }
+
+    @Override
+    public Object deepCopy(Object value) throws HibernateException {
+        return delegate.deepCopy(value);
+    }
+
+    @Override
+    public boolean isMutable() {
+        return delegate.isMutable();
+    }
+
+    @Override
+    public Serializable disassemble(Object value) throws HibernateException {
+        return delegate.disassemble(value);
+    }
+
+    @Override
+    public Object assemble(Serializable cached, Object owner) throws HibernateException {
+        return delegate.assemble(cached, owner);
+    }
+
+    @Override
+    public Object replace(Object original, Object target, Object owner) throws HibernateException {
+        return delegate.replace(original, target, owner);
+    }
+
+    /**
+     * EnhancedUserType delegate 용. XML/SQL 문자열 변환은 통계 없이 그대로 위임한다.
+     */
+    static class Enhanced extends StatisticsCollectingUserType implements EnhancedUserType {
+        private final EnhancedUserType enhancedDelegate;
+
+        Enhanced(EnhancedUserType delegate, ConversionStatistics statistics) {
+            super(delegate, statistics);
+            this.enhancedDelegate = delegate;
+        }
+
+        @Override
+        public String objectToSQLString(Object value) {
+            return enhancedDelegate.objectToSQLString(value);
+        }
+
+        @Override
+        public String toXMLString(Object value) {
+            return enhancedDelegate.toXMLString(value);
+        }
+
+        @Override
+        public Object fromXMLString(String xmlValue) {
+            return enhancedDelegate.fromXMLString(xmlValue);
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package kr.pe.kwonnam.hibernate4extrausertypes;
 
-import org.apache.commons.lang3.StringUtils;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.descriptor.sql.BasicBinder;
 import org.hibernate.type.descriptor.sql.BasicExtractor;
+import org.hibernate.usertype.EnhancedUserType;
 import org.hibernate.usertype.ParameterizedType;
-import org.hibernate.usertype.UserType;
 import org.jboss.logging.Logger;
 
 import java.io.Serializable;
@@ -20,7 +19,7 @@ import java.util.Properties;
 
 import static java.lang.String.format;
 
-public class StringBooleanUserType implements UserType, ParameterizedType {
+public class StringBooleanUserType implements EnhancedUserType, ParameterizedType {
     private static final CoreMessageLogger BINDER_LOGGER = Logger.getMessageLogger(CoreMessageLogger.class, BasicBinder.class.getName());
     private static final CoreMessageLogger EXTRACTOR_LOGGER = Logger.getMessageLogger(CoreMessageLogger.class, BasicExtractor.class.getName());
 
@@ -42,6 +41,14 @@ public class StringBooleanUserType implements UserType, ParameterizedType {
     public static final String PARAM_IGNORE_CASE = "ignoreCase";
     public static final String DEFAULT_IGNORE_CASE = "false";
 
+    /** 빈 문자열을 null로 취급할지 여부를 지정하는 파라미터 */
+    public static final String PARAM_EMPTY_AS_NULL = "emptyAsNull";
+    public static final String DEFAULT_EMPTY_AS_NULL = "false";
+
+    /** 앞뒤 공백(CHAR(n) padding 등)을 무시할지 여부를 지정하는 파라미터 */
+    public static final String PARAM_TRIM_PADDING = "trimPadding";
+    public static final String DEFAULT_TRIM_PADDING = "false";
+
     /** true 값을 나타내는 문자열 */
     private String trueValue = null;
 
@@ -62,6 +69,24 @@ public class StringBooleanUserType implements UserType, ParameterizedType {
      */
     private boolean ignoreCase = true;
 
+    /**
+     * {@code true}이면 빈 문자열(trimPadding이 켜져 있으면 공백만 있는 문자열 포함)을
+     * unknownResult가 아닌 null로 변환한다.
+     */
+    private boolean emptyAsNull = false;
+
+    /**
+     * {@code true}이면 "Y  " 처럼 공백이 붙은 값의 앞뒤 공백을 무시하고 비교한다.
+     * trim()으로 새 문자열을 만들지 않고 비교할 범위만 계산한다.
+     */
+    private boolean trimPadding = false;
+
+    /** 미리 계산해둔 true 값의 SQL 리터럴 */
+    private String trueSqlLiteral = null;
+
+    /** 미리 계산해둔 false 값의 SQL 리터럴 */
+    private String falseSqlLiteral = null;
+
     @Override
     public void setParameterValues(Properties parameters) {
         if (parameters == null) {
@@ -72,6 +97,11 @@ public class StringBooleanUserType implements UserType, ParameterizedType {
         falseValue = parameters.getProperty(PARAM_FALSE_VALUE, DEFAULT_FALSE_VALUE);
         unknownResult = populateUnknownResult(parameters.getProperty(PARAM_UNKNOWN_RESULT, DEFAULT_UNKNOWN_RESULT));
         ignoreCase = Boolean.valueOf(parameters.getProperty(PARAM_IGNORE_CASE, DEFAULT_IGNORE_CASE));
+        emptyAsNull = Boolean.valueOf(parameters.getProperty(PARAM_EMPTY_AS_NULL, DEFAULT_EMPTY_AS_NULL));
+        trimPadding = Boolean.valueOf(parameters.getProperty(PARAM_TRIM_PADDING, DEFAULT_TRIM_PADDING));
+
+        trueSqlLiteral = UserTypeUtils.toSqlStringLiteral(trueValue);
+        falseSqlLiteral = UserTypeUtils.toSqlStringLiteral(falseValue);
     }
 
     Boolean populateUnknownResult(String unknownResultString) {
@@ -142,25 +172,39 @@ public class StringBooleanUserType implements UserType, ParameterizedType {
             return null;
         }
 
-        if (stringEqualsWithCaseCheck(trueValue, stringBooleanValue)) {
-            EXTRACTOR_LOGGER.tracev("Found [{0}] as column [{1}] original value [{2}]", true, names[0], stringBooleanValue);
-            return true;
+        Boolean resultValue = toBoolean(stringBooleanValue);
+        EXTRACTOR_LOGGER.tracev("Found [{0}] as column [{1}] original value [{2}]", resultValue, names[0], stringBooleanValue);
+        return resultValue;
+    }
+
+    /**
+     * 문자열을 trueValue/falseValue와 비교하여 Boolean으로 변환. 둘 다 아니면 unknownResult를 리턴한다.
+     */
+    Boolean toBoolean(String stringBooleanValue) {
+        int start = 0;
+        int end = stringBooleanValue.length();
+        if (trimPadding) {
+            start = UserTypeUtils.trimmedStart(stringBooleanValue);
+            end = UserTypeUtils.trimmedEnd(stringBooleanValue, start);
+        }
+
+        if (emptyAsNull && start == end) {
+            return null;
         }
 
-        if (stringEqualsWithCaseCheck(falseValue, stringBooleanValue)) {
-            EXTRACTOR_LOGGER.tracev("Found [{0}] as column [{1}] original value [{2}]", false, names[0], stringBooleanValue);
-            return false;
+        if (regionEqualsWithCaseCheck(trueValue, stringBooleanValue, start, end)) {
+            return Boolean.TRUE;
+        }
+
+        if (regionEqualsWithCaseCheck(falseValue, stringBooleanValue, start, end)) {
+            return Boolean.FALSE;
         }
 
-        EXTRACTOR_LOGGER.tracev("Found [{0}] as column [{1}] original value [{2}]", unknownResult, names[0], stringBooleanValue);
         return unknownResult;
     }
 
-    private boolean stringEqualsWithCaseCheck(String value1, String value2) {
-        if (ignoreCase) {
-            return StringUtils.equalsIgnoreCase(value1, value2);
-        }
-        return StringUtils.equals(value1, value2);
+    private boolean regionEqualsWithCaseCheck(String expected, String value, int start, int end) {
+        return expected.length() == end - start && value.regionMatches(ignoreCase, start, expected, 0, expected.length());
     }
 
     /**
@@ -176,4 +220,28 @@ public class StringBooleanUserType implements UserType, ParameterizedType {
         String columnValue = Boolean.TRUE.equals(value) ? trueValue : falseValue;
         StandardBasicTypes.STRING.nullSafeSet(st, columnValue, index, session);
     }
+
+    @Override
+    public String objectToSQLString(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        return Boolean.TRUE.equals(value) ? trueSqlLiteral : falseSqlLiteral;
+    }
+
+    @Override
+    public String toXMLString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return Boolean.TRUE.equals(value) ? trueValue : falseValue;
+    }
+
+    @Override
+    public Object fromXMLString(String xmlValue) {
+        if (xmlValue == null) {
+            return null;
+        }
+        return toBoolean(xmlValue);
+    }
 }
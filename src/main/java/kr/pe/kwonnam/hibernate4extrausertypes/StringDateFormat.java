@@ -0,0 +1,189 @@
+package kr.pe.kwonnam.hibernate4extrausertypes;
+
+import org.hibernate.HibernateException;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 날짜 형식 하나에 대한 문자열 파싱/포맷 처리.
+ * SimpleDateFormat은 생성 비용이 크고 thread safe 하지 않으므로 스레드마다 하나씩 만들어 재사용한다.
+ *
+ * yyyyMMdd, HHmmss 처럼 yyyy, MM, dd, HH, mm, ss, SSS 로만 이루어진 숫자 형식은 SimpleDateFormat 없이
+ * 숫자를 직접 읽어 스레드별 {@link Calendar}의 필드를 채운다. 길이가 다르거나 숫자가 아닌 문자가 있으면
+ * SimpleDateFormat으로 파싱해서 기존과 같은 결과와 오류 메시지를 낸다.
+ */
+final class StringDateFormat {
+    private final String pattern;
+
+    /** 숫자 형식일 때 각 자리수 묶음에 해당하는 Calendar 필드. 숫자 형식이 아니면 null */
+    private final int[] numericFields;
+
+    /** numericFields 각각의 자리수 */
+    private final int[] numericWidths;
+
+    /** 숫자 형식 전체 자리수 */
+    private final int numericLength;
+
+    private final ThreadLocal<SimpleDateFormat> simpleDateFormats = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return new SimpleDateFormat(pattern);
+        }
+    };
+
+    private final ThreadLocal<Calendar> calendars = new ThreadLocal<Calendar>() {
+        @Override
+        protected Calendar initialValue() {
+            return Calendar.getInstance();
+        }
+    };
+
+    StringDateFormat(String pattern) {
+        this.pattern = pattern;
+
+        List<Integer> fields = new ArrayList<>();
+        List<Integer> widths = new ArrayList<>();
+        int length = 0;
+        int index = 0;
+        while (index < pattern.length()) {
+            char letter = pattern.charAt(index);
+            int width = 1;
+            while (index + width < pattern.length() && pattern.charAt(index + width) == letter) {
+                width++;
+            }
+
+            int field = numericCalendarField(letter, width);
+            if (field < 0) {
+                fields = null;
+                break;
+            }
+            fields.add(field);
+            widths.add(width);
+            length += width;
+            index += width;
+        }
+
+        if (fields == null || fields.isEmpty()) {
+            numericFields = null;
+            numericWidths = null;
+            numericLength = 0;
+            return;
+        }
+
+        numericFields = new int[fields.size()];
+        numericWidths = new int[widths.size()];
+        for (int i = 0; i < numericFields.length; i++) {
+            numericFields[i] = fields.get(i);
+            numericWidths[i] = widths.get(i);
+        }
+        numericLength = length;
+    }
+
+    private static int numericCalendarField(char letter, int width) {
+        switch (letter) {
+            case 'y':
+                return width == 4 ? Calendar.YEAR : -1;
+            case 'M':
+                return width == 2 ? Calendar.MONTH : -1;
+            case 'd':
+                return width == 2 ? Calendar.DAY_OF_MONTH : -1;
+            case 'H':
+                return width == 2 ? Calendar.HOUR_OF_DAY : -1;
+            case 'm':
+                return width == 2 ? Calendar.MINUTE : -1;
+            case 's':
+                return width == 2 ? Calendar.SECOND : -1;
+            case 'S':
+                return width == 3 ? Calendar.MILLISECOND : -1;
+            default:
+                return -1;
+        }
+    }
+
+    String getPattern() {
+        return pattern;
+    }
+
+    boolean isNumeric() {
+        return numericFields != null;
+    }
+
+    /**
+     * 현재 스레드의 Calendar를 비워서 리턴한다. 값을 다 채운 뒤 {@link Calendar#getTime()}으로 Date를 만든다.
+     */
+    Calendar clearedCalendar() {
+        Calendar calendar = calendars.get();
+        calendar.clear();
+        return calendar;
+    }
+
+    /**
+     * 숫자 형식일 때 stringDate의 start부터 end 직전까지의 숫자를 직접 읽어 calendar의 필드를 채운다.
+     * 숫자 형식이 아니거나, 길이가 맞지 않거나, 숫자가 아닌 문자가 있으면 false를 리턴한다.
+     * 이때 calendar의 일부 필드는 이미 바뀌었을 수 있다.
+     */
+    boolean decodeNumeric(String stringDate, int start, int end, Calendar calendar) {
+        if (numericFields == null || end - start != numericLength) {
+            return false;
+        }
+
+        int index = start;
+        for (int i = 0; i < numericFields.length; i++) {
+            int value = 0;
+            for (int digitIndex = 0; digitIndex < numericWidths[i]; digitIndex++) {
+                int digit = stringDate.charAt(index++) - '0';
+                if (digit < 0 || digit > 9) {
+                    return false;
+                }
+                value = value * 10 + digit;
+            }
+            calendar.set(numericFields[i], numericFields[i] == Calendar.MONTH ? value - 1 : value);
+        }
+        return true;
+    }
+
+    Date parse(String stringDate) {
+        return parse(stringDate, 0, UserTypeUtils.trimmedEnd(stringDate, 0));
+    }
+
+    /**
+     * stringDate의 start부터 파싱한다. 부분 문자열을 만들지 않기 위해 {@link ParsePosition}을 사용하며,
+     * 파싱이 end 전에 끝나면(공백이 아닌 문자가 남아 있으면) 실패로 처리한다. end 뒤에는 공백만 있어야 한다.
+     */
+    Date parse(String stringDate, int start, int end) {
+        if (numericFields != null) {
+            Calendar calendar = clearedCalendar();
+            if (decodeNumeric(stringDate, start, end, calendar)) {
+                return calendar.getTime();
+            }
+        }
+
+        Date date;
+        ParsePosition position = new ParsePosition(start);
+        try {
+            date = simpleDateFormats.get().parse(stringDate, position);
+        } catch (Exception ex) {
+            throw new HibernateException("Failed to parse [" + stringDate + "] with [" + pattern + "].", ex);
+        }
+
+        if (date == null || position.getIndex() < end) {
+            throw new HibernateException("Failed to parse [" + stringDate + "] with [" + pattern + "].",
+                new ParseException("Unparseable date: \"" + stringDate + "\"", date == null ? position.getErrorIndex() : position.getIndex()));
+        }
+        return date;
+    }
+
+    String format(Date date) {
+        try {
+            return simpleDateFormats.get().format(date);
+        } catch (Exception ex) {
+            throw new HibernateException("Failed to format date object to string.", ex);
+        }
+    }
+}
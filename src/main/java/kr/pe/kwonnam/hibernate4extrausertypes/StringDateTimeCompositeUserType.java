@@ -0,0 +1,210 @@
+package kr.pe.kwonnam.hibernate4extrausertypes;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+import org.hibernate.usertype.CompositeUserType;
+import org.hibernate.usertype.ParameterizedType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * 날짜와 시간이 각각 다른 문자열 컬럼(예: yyyyMMdd, HHmmss)에 저장돼 있을 때
+ * 두 컬럼을 하나의 {@link Date}로 읽고 쓰는 CompositeUserType.
+ *
+ * 기본값인 yyyyMMdd, HHmmss 처럼 두 형식이 모두 숫자로만 이루어져 있으면 두 컬럼의 숫자를 직접 읽어
+ * 스레드별 {@link Calendar} 하나에 채우고 Date 하나만 만든다. SimpleDateFormat을 사용하지 않는다.
+ *
+ * 그 밖의 형식(홑따옴표로 감싼 문자열 등)은 날짜 컬럼과 시간 컬럼을 각각의 형식으로 파싱한 뒤 날짜에 시간 컬럼의
+ * 시/분/초/밀리초를 합친다. 두 형식 문자열이나 컬럼 값을 이어붙이지 않으므로 쓰기와 읽기가 같은 형식을 사용한다.
+ * timeFormat에는 시각 필드(H, m, s, S 등)만 사용해야 한다.
+ *
+ * 시간 컬럼이 null 이면 날짜 컬럼만으로 파싱하고, 두 컬럼이 모두 null 이면 null 을 리턴한다.
+ * 날짜 컬럼만 null 이고 시간 컬럼은 null 이 아니면 시간 값을 잃지 않도록 예외를 던진다.
+ */
+public class StringDateTimeCompositeUserType implements CompositeUserType, ParameterizedType {
+    private static final String[] PROPERTY_NAMES = {"date", "time"};
+    private static final Type[] PROPERTY_TYPES = {StandardBasicTypes.STRING, StandardBasicTypes.STRING};
+
+    private static final int DATE_PROPERTY_INDEX = 0;
+    private static final int TIME_PROPERTY_INDEX = 1;
+
+    /** 날짜 컬럼의 형식을 지정하는 파라미터 */
+    public static final String PARAM_DATE_FORMAT = "dateFormat";
+    public static final String DEFAULT_DATE_FORMAT = "yyyyMMdd";
+
+    /** 시간 컬럼의 형식을 지정하는 파라미터 */
+    public static final String PARAM_TIME_FORMAT = "timeFormat";
+    public static final String DEFAULT_TIME_FORMAT = "HHmmss";
+
+    private StringDateFormat dateFormat = new StringDateFormat(DEFAULT_DATE_FORMAT);
+
+    private StringDateFormat timeFormat = new StringDateFormat(DEFAULT_TIME_FORMAT);
+
+    String getDateFormat() {
+        return dateFormat.getPattern();
+    }
+
+    String getTimeFormat() {
+        return timeFormat.getPattern();
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        if (parameters == null) {
+            parameters = new Properties();
+        }
+
+        dateFormat = new StringDateFormat(parameters.getProperty(PARAM_DATE_FORMAT, DEFAULT_DATE_FORMAT));
+        timeFormat = new StringDateFormat(parameters.getProperty(PARAM_TIME_FORMAT, DEFAULT_TIME_FORMAT));
+    }
+
+    @Override
+    public String[] getPropertyNames() {
+        return PROPERTY_NAMES.clone();
+    }
+
+    @Override
+    public Type[] getPropertyTypes() {
+        return PROPERTY_TYPES.clone();
+    }
+
+    @Override
+    public Object getPropertyValue(Object component, int property) throws HibernateException {
+        if (component == null) {
+            return null;
+        }
+
+        return formatOf(property).format((Date) component);
+    }
+
+    @Override
+    public void setPropertyValue(Object component, int property, Object value) throws HibernateException {
+        formatOf(property); // 알 수 없는 property index 검사
+
+        Date date = (Date) component;
+        String datePart = property == DATE_PROPERTY_INDEX ? (String) value : dateFormat.format(date);
+        String timePart = property == TIME_PROPERTY_INDEX ? (String) value : timeFormat.format(date);
+
+        Date parsedDate = parseDateTime(datePart, timePart);
+        if (parsedDate == null) {
+            throw new HibernateException("Date part must not be null.");
+        }
+        date.setTime(parsedDate.getTime());
+    }
+
+    private StringDateFormat formatOf(int property) {
+        switch (property) {
+            case DATE_PROPERTY_INDEX:
+                return dateFormat;
+            case TIME_PROPERTY_INDEX:
+                return timeFormat;
+            default:
+                throw new HibernateException("Unknown property index " + property);
+        }
+    }
+
+    @Override
+    public Class returnedClass() {
+        return Date.class;
+    }
+
+    @Override
+    public boolean equals(Object x, Object y) throws HibernateException {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(Object x) throws HibernateException {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public Object nullSafeGet(ResultSet rs, String[] names, SessionImplementor session, Object owner) throws HibernateException, SQLException {
+        String datePart = StandardBasicTypes.STRING.nullSafeGet(rs, names[DATE_PROPERTY_INDEX], session);
+        String timePart = StandardBasicTypes.STRING.nullSafeGet(rs, names[TIME_PROPERTY_INDEX], session);
+
+        return parseDateTime(datePart, timePart);
+    }
+
+    Date parseDateTime(String datePart, String timePart) {
+        if (datePart == null) {
+            if (timePart != null) {
+                throw new HibernateException("Date part is null but time part is [" + timePart + "].");
+            }
+            return null;
+        }
+
+        if (timePart == null) {
+            return dateFormat.parse(datePart);
+        }
+
+        Calendar calendar = dateFormat.clearedCalendar();
+        if (dateFormat.decodeNumeric(datePart, 0, UserTypeUtils.trimmedEnd(datePart, 0), calendar)
+            && timeFormat.decodeNumeric(timePart, 0, UserTypeUtils.trimmedEnd(timePart, 0), calendar)) {
+            return calendar.getTime();
+        }
+
+        Date date = dateFormat.parse(datePart);
+        Date time = timeFormat.parse(timePart);
+
+        calendar.setTime(time);
+        int hourOfDay = calendar.get(Calendar.HOUR_OF_DAY);
+        int minute = calendar.get(Calendar.MINUTE);
+        int second = calendar.get(Calendar.SECOND);
+        int millisecond = calendar.get(Calendar.MILLISECOND);
+
+        calendar.setTime(date);
+        calendar.set(Calendar.HOUR_OF_DAY, hourOfDay);
+        calendar.set(Calendar.MINUTE, minute);
+        calendar.set(Calendar.SECOND, second);
+        calendar.set(Calendar.MILLISECOND, millisecond);
+        return calendar.getTime();
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, Object value, int index, SessionImplementor session) throws HibernateException, SQLException {
+        if (value == null) {
+            StandardBasicTypes.STRING.nullSafeSet(st, null, index + DATE_PROPERTY_INDEX, session);
+            StandardBasicTypes.STRING.nullSafeSet(st, null, index + TIME_PROPERTY_INDEX, session);
+            return;
+        }
+
+        Date date = (Date) value;
+        StandardBasicTypes.STRING.nullSafeSet(st, dateFormat.format(date), index + DATE_PROPERTY_INDEX, session);
+        StandardBasicTypes.STRING.nullSafeSet(st, timeFormat.format(date), index + TIME_PROPERTY_INDEX, session);
+    }
+
+    @Override
+    public Object deepCopy(Object value) throws HibernateException {
+        return StringDateUserType.dateDeepCopy((Date) value);
+    }
+
+    @Override
+    public boolean isMutable() {
+        return true; // java.util.Date is mutable
+    }
+
+    @Override
+    public Serializable disassemble(Object value, SessionImplementor session) throws HibernateException {
+        return (Serializable) StringDateUserType.dateDeepCopy((Date) value);
+    }
+
+    @Override
+    public Object assemble(Serializable cached, SessionImplementor session, Object owner) throws HibernateException {
+        return StringDateUserType.dateDeepCopy((Date) cached);
+    }
+
+    @Override
+    public Object replace(Object original, Object target, SessionImplementor session, Object owner) throws HibernateException {
+        return StringDateUserType.dateDeepCopy((Date) original);
+    }
+}
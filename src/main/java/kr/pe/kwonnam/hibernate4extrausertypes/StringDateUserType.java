@@ -4,27 +4,47 @@ package kr.pe.kwonnam.hibernate4extrausertypes;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.usertype.EnhancedUserType;
 import org.hibernate.usertype.ParameterizedType;
-import org.hibernate.usertype.UserType;
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Objects;
 import java.util.Properties;
 
-public class StringDateUserType implements UserType, ParameterizedType {
+public class StringDateUserType implements EnhancedUserType, ParameterizedType {
     public static final int SQL_TYPE = Types.VARCHAR;
 
     public static final String PARAM_FORMAT = "format";
     public static final String DEFAULT_FORMAT = "yyyyMMddHHmmss";
 
+    /** 빈 문자열을 null로 취급할지 여부를 지정하는 파라미터 */
+    public static final String PARAM_EMPTY_AS_NULL = "emptyAsNull";
+    public static final String DEFAULT_EMPTY_AS_NULL = "false";
+
+    /** 앞뒤 공백(CHAR(n) padding 등)을 무시할지 여부를 지정하는 파라미터 */
+    public static final String PARAM_TRIM_PADDING = "trimPadding";
+    public static final String DEFAULT_TRIM_PADDING = "false";
+
     private String format;
 
+    private StringDateFormat stringDateFormat;
+
+    /**
+     * {@code true}이면 빈 문자열(trimPadding이 켜져 있으면 공백만 있는 문자열 포함)을 파싱하지 않고 null로 변환한다.
+     */
+    private boolean emptyAsNull = false;
+
+    /**
+     * {@code true}이면 앞뒤 공백을 무시하고 파싱한다. trim()으로 새 문자열을 만들지 않고 파싱할 범위만 계산한다.
+     * 날짜 뒤에 붙은 공백은 이 값과 관계없이 항상 허용되며(이전 동작과 동일), 공백이 아닌 나머지 문자는 항상 오류이다.
+     */
+    private boolean trimPadding = false;
+
     String getFormat() {
         return format;
     }
@@ -32,6 +52,9 @@ public class StringDateUserType implements UserType, ParameterizedType {
     @Override
     public void setParameterValues(Properties parameters) {
         format = parameters.getProperty(PARAM_FORMAT, DEFAULT_FORMAT);
+        stringDateFormat = new StringDateFormat(format);
+        emptyAsNull = Boolean.valueOf(parameters.getProperty(PARAM_EMPTY_AS_NULL, DEFAULT_EMPTY_AS_NULL));
+        trimPadding = Boolean.valueOf(parameters.getProperty(PARAM_TRIM_PADDING, DEFAULT_TRIM_PADDING));
     }
 
     @Override
@@ -84,16 +107,26 @@ public class StringDateUserType implements UserType, ParameterizedType {
     @Override
     public Object nullSafeGet(ResultSet rs, String[] names, SessionImplementor session, Object owner) throws HibernateException, SQLException {
         String stringDate = StandardBasicTypes.STRING.nullSafeGet(rs, names[0], session);
-        if (stringDate == null) { // 데이터에 null이 아닌 empty가 있다면 empty 체크도 해야함.
+        if (stringDate == null) {
             return null;
         }
 
-        try {
-            SimpleDateFormat sdf = new SimpleDateFormat(format);
-            return sdf.parse(stringDate);
-        } catch (Exception ex) {
-            throw new HibernateException("Failed to parse [" + stringDate + "] with [" + format + "].", ex);
+        return toDate(stringDate);
+    }
+
+    Date toDate(String stringDate) {
+        int start = 0;
+        int end = stringDate.length();
+        if (trimPadding) {
+            start = UserTypeUtils.trimmedStart(stringDate);
+            end = UserTypeUtils.trimmedEnd(stringDate, start);
         }
+
+        if (emptyAsNull && start == end) {
+            return null;
+        }
+
+        return stringDateFormat.parse(stringDate, start, UserTypeUtils.trimmedEnd(stringDate, start));
     }
 
     @Override
@@ -103,14 +136,31 @@ public class StringDateUserType implements UserType, ParameterizedType {
             return;
         }
 
-        try {
-            SimpleDateFormat sdf = new SimpleDateFormat(format);
+        StandardBasicTypes.STRING.nullSafeSet(st, stringDateFormat.format((Date) value), index, session);
+    }
 
-            final String formattedDate = sdf.format((Date) value);
-            StandardBasicTypes.STRING.nullSafeSet(st, formattedDate, index, session);
-        } catch (Exception ex) {
-            throw new HibernateException("Failed to format date object to string.", ex);
+    @Override
+    public String objectToSQLString(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        return UserTypeUtils.toSqlStringLiteral(stringDateFormat.format((Date) value));
+    }
+
+    @Override
+    public String toXMLString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return stringDateFormat.format((Date) value);
+    }
+
+    @Override
+    public Object fromXMLString(String xmlValue) {
+        if (xmlValue == null) {
+            return null;
         }
+        return toDate(xmlValue);
     }
 
     public static Object dateDeepCopy(Date date) {
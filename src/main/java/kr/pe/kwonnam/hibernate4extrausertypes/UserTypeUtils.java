@@ -0,0 +1,42 @@
+package kr.pe.kwonnam.hibernate4extrausertypes;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * UserType 구현체들이 공유하는 문자열 처리 유틸리티.
+ */
+final class UserTypeUtils {
+
+    private UserTypeUtils() {
+        throw new UnsupportedOperationException("Utility class.");
+    }
+
+    /**
+     * 문자열을 SQL 문자열 리터럴로 변환한다. 홑따옴표는 두번 반복해서 escape 한다.
+     */
+    static String toSqlStringLiteral(String value) {
+        return '\'' + StringUtils.replace(value, "'", "''") + '\'';
+    }
+
+    /**
+     * 앞쪽 공백을 건너뛴 첫번째 문자의 index. 부분 문자열을 만들지 않고 경계만 계산한다.
+     */
+    static int trimmedStart(String value) {
+        int start = 0;
+        while (start < value.length() && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * 뒤쪽 공백(CHAR(n) padding 등)을 제외한 마지막 문자 다음 index. start 보다 작아지지 않는다.
+     */
+    static int trimmedEnd(String value, int start) {
+        int end = value.length();
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+}
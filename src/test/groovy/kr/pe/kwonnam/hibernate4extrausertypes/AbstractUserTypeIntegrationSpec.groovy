@@ -3,6 +3,8 @@ package kr.pe.kwonnam.hibernate4extrausertypes
 import org.hibernate.Session
 import org.hibernate.SessionFactory
 import org.hibernate.cfg.Configuration
+import org.hibernate.service.BootstrapServiceRegistry
+import org.hibernate.service.BootstrapServiceRegistryBuilder
 import org.hibernate.service.ServiceRegistryBuilder
 import spock.lang.Specification
 
@@ -32,7 +34,7 @@ abstract class AbstractUserTypeIntegrationSpec extends Specification {
 
         // hibernate 4.2.x 미만 의 ServiceRegistryBuilder 설정.
         // 4.x 끼리도 버전마다 조금씩 달라질 수 있다.
-        def srBuilder = new ServiceRegistryBuilder().applySettings(configuration.getProperties())
+        def srBuilder = new ServiceRegistryBuilder(buildBootstrapServiceRegistry()).applySettings(configuration.getProperties())
         def serviceRegistry = srBuilder.buildServiceRegistry()
 
         sf = configuration.buildSessionFactory(serviceRegistry);
@@ -42,8 +44,16 @@ abstract class AbstractUserTypeIntegrationSpec extends Specification {
 
     abstract void addAnnotatedClass(Configuration configuration);
 
+    BootstrapServiceRegistry buildBootstrapServiceRegistry() {
+        return new BootstrapServiceRegistryBuilder().build()
+    }
+
     void cleanup() {
-        session.close()
-        sf.close()
+        if (session.isOpen()) {
+            session.close()
+        }
+        if (!sf.isClosed()) {
+            sf.close()
+        }
     }
 }
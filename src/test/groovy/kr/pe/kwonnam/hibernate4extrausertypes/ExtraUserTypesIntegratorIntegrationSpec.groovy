@@ -0,0 +1,106 @@
+package kr.pe.kwonnam.hibernate4extrausertypes
+
+import ch.qos.logback.classic.Logger
+import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.core.read.ListAppender
+import groovy.sql.Sql
+import org.hibernate.cfg.Configuration
+import org.hibernate.jdbc.Work
+import org.hibernate.service.BootstrapServiceRegistry
+import org.hibernate.service.BootstrapServiceRegistryBuilder
+import org.slf4j.LoggerFactory
+
+import java.sql.Connection
+
+class ExtraUserTypesIntegratorIntegrationSpec extends AbstractUserTypeIntegrationSpec {
+    ExtraUserTypesIntegrator integrator = new ExtraUserTypesIntegrator(true)
+        .registerEnumType("sex-by-int", Sex, "toInt", "fromInt")
+
+    @Override
+    void addAnnotatedClass(Configuration configuration) {
+        integrator.registerTypeOverrides(configuration)
+        configuration.addAnnotatedClass(NamedTypeEntity)
+    }
+
+    @Override
+    BootstrapServiceRegistry buildBootstrapServiceRegistry() {
+        return new BootstrapServiceRegistryBuilder().with(integrator).build()
+    }
+
+    def "save and get with registered type names"() {
+        given:
+        Date birthday = new GregorianCalendar(1980, Calendar.MAY, 5).time
+        Date registeredAt = new GregorianCalendar(2016, Calendar.OCTOBER, 3, 13, 24, 56).time
+        NamedTypeEntity entity = new NamedTypeEntity(accessible: true, birthday: birthday, sexByInt: Sex.FEMALE, registeredAt: registeredAt)
+
+        when:
+        Long id = session.save(entity)
+        session.flush()
+        session.evict(entity)
+
+        NamedTypeEntity readFromDb = session.get(NamedTypeEntity, id)
+
+        then:
+        session.doWork({ Connection con ->
+            Sql sql = new Sql(con)
+            def row = sql.firstRow("select accessible, birthday, sex_by_int, reg_date, reg_time from named_types where id = ?", [id])
+            assert row.accessible == 'Y'
+            assert row.birthday == '19800505'
+            assert row.sex_by_int == 20002
+            assert row.reg_date == '20161003'
+            assert row.reg_time == '132456'
+        } as Work)
+
+        readFromDb.accessible == true
+        readFromDb.birthday == birthday
+        readFromDb.sexByInt == Sex.FEMALE
+        readFromDb.registeredAt == registeredAt
+    }
+
+    def "conversion statistics"() {
+        given:
+        NamedTypeEntity entity = new NamedTypeEntity(accessible: false, birthday: null, sexByInt: Sex.MALE)
+
+        when:
+        Long id = session.save(entity)
+        session.flush()
+        session.evict(entity)
+        session.get(NamedTypeEntity, id)
+
+        then:
+        def statistics = integrator.conversionStatistics.collectEntries { [(it.typeName): it] }
+        statistics.keySet() == [ExtraUserTypesIntegrator.YN_BOOLEAN, ExtraUserTypesIntegrator.YYYYMMDD_DATE,
+                                ExtraUserTypesIntegrator.YYYYMMDDHHMMSS_DATE, "sex-by-int"] as Set
+        statistics[ExtraUserTypesIntegrator.YN_BOOLEAN].writeCount == 1
+        statistics[ExtraUserTypesIntegrator.YN_BOOLEAN].readCount == 1
+        statistics["sex-by-int"].writeCount == 1
+        statistics["sex-by-int"].readCount == 1
+        statistics[ExtraUserTypesIntegrator.YYYYMMDDHHMMSS_DATE].readCount == 0
+    }
+
+    def "conversion statistics are logged when SessionFactory is closed"() {
+        given:
+        Logger integratorLogger = (Logger) LoggerFactory.getLogger(ExtraUserTypesIntegrator.name)
+        ListAppender<ILoggingEvent> appender = new ListAppender<>()
+        appender.start()
+        integratorLogger.addAppender(appender)
+
+        NamedTypeEntity entity = new NamedTypeEntity(accessible: true, sexByInt: Sex.MALE)
+        Long id = session.save(entity)
+        session.flush()
+        session.evict(entity)
+        session.get(NamedTypeEntity, id)
+
+        when:
+        session.close()
+        sf.close()
+
+        then:
+        def messages = appender.list*.formattedMessage
+        messages.any { it.startsWith("Conversion statistics of ${ExtraUserTypesIntegrator.YN_BOOLEAN} : reads=1") }
+        messages.any { it.startsWith("Conversion statistics of sex-by-int : reads=1") }
+
+        cleanup:
+        integratorLogger.detachAppender(appender)
+    }
+}
@@ -0,0 +1,67 @@
+package kr.pe.kwonnam.hibernate4extrausertypes
+
+import org.hibernate.cfg.Configuration
+import org.hibernate.usertype.EnhancedUserType
+import org.hibernate.usertype.UserType
+import spock.lang.Specification
+
+
+class ExtraUserTypesIntegratorSpec extends Specification {
+
+    def "statistics are not collected by default"() {
+        given:
+        ExtraUserTypesIntegrator integrator = new ExtraUserTypesIntegrator()
+            .registerEnumType("sex-by-int", Sex, "toInt", "fromInt")
+
+        expect:
+        integrator.conversionStatistics.isEmpty()
+        !(integrator.userTypes["sex-by-int"] instanceof StatisticsCollectingUserType)
+    }
+
+    def "statistics are collected per registered name"() {
+        given:
+        ExtraUserTypesIntegrator integrator = new ExtraUserTypesIntegrator(true)
+            .registerEnumType("sex-by-int", Sex, "toInt", "fromInt")
+
+        expect:
+        integrator.conversionStatistics*.typeName as Set == [ExtraUserTypesIntegrator.YN_BOOLEAN, ExtraUserTypesIntegrator.YYYYMMDD_DATE,
+                                                             ExtraUserTypesIntegrator.YYYYMMDDHHMMSS_DATE, "sex-by-int"] as Set
+    }
+
+    def "registerUserType - plain UserType"() {
+        given:
+        UserType plainUserType = Mock(UserType)
+        ExtraUserTypesIntegrator integrator = new ExtraUserTypesIntegrator(true)
+
+        when:
+        integrator.registerUserType("plain", plainUserType)
+
+        then:
+        UserType registered = integrator.userTypes["plain"]
+        registered instanceof StatisticsCollectingUserType
+        !(registered instanceof EnhancedUserType)
+        registered.delegate.is(plainUserType)
+        integrator.conversionStatistics*.typeName.contains("plain")
+    }
+
+    def "registerUserType - EnhancedUserType keeps EnhancedUserType"() {
+        given:
+        ExtraUserTypesIntegrator integrator = new ExtraUserTypesIntegrator(true)
+
+        expect:
+        integrator.userTypes[ExtraUserTypesIntegrator.YN_BOOLEAN] instanceof EnhancedUserType
+        integrator.userTypes[ExtraUserTypesIntegrator.YN_BOOLEAN].objectToSQLString(true) == "'Y'"
+    }
+
+    def "registerTypeOverrides"() {
+        given:
+        Configuration configuration = new Configuration()
+
+        when:
+        new ExtraUserTypesIntegrator().registerTypeOverrides(configuration)
+
+        then:
+        configuration.typeResolver.basic(ExtraUserTypesIntegrator.YN_BOOLEAN) != null
+        configuration.typeResolver.basic(ExtraUserTypesIntegrator.YYYYMMDD_HHMMSS_DATETIME) != null
+    }
+}
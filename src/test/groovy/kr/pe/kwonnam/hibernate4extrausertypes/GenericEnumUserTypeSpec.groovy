@@ -113,4 +113,63 @@ class GenericEnumUserTypeSpec extends Specification {
         'toShortCode' | 'fromShortCode' | char.class | org.hibernate.type.CharacterType | Types.CHAR
         'name' | 'valueOf' | String.class | org.hibernate.type.StringType | Types.VARCHAR
     }
+
+    @Unroll
+    def "objectToSQLString and toXMLString - identifierMethodName(#identifierMethodName)"(identifierMethodName, valueOfMethodName, enumValue, expectedSqlLiteral, expectedXmlString) {
+        given:
+        parameters.setProperty(GenericEnumUserType.PARAM_ENUM_CLASS, "kr.pe.kwonnam.hibernate4extrausertypes.Sex")
+        parameters.setProperty(GenericEnumUserType.PARAM_IDENTIFIER_METHOD, identifierMethodName)
+        parameters.setProperty(GenericEnumUserType.PARAM_VALUE_OF_METHOD, valueOfMethodName)
+        genericEnumUserType.setParameterValues(parameters)
+
+        expect:
+        genericEnumUserType.objectToSQLString(enumValue) == expectedSqlLiteral
+        genericEnumUserType.toXMLString(enumValue) == expectedXmlString
+        genericEnumUserType.fromXMLString(expectedXmlString) == enumValue
+
+        where:
+        identifierMethodName | valueOfMethodName | enumValue  | expectedSqlLiteral | expectedXmlString
+        'toInt'              | 'fromInt'         | Sex.MALE   | "10001"            | "10001"
+        'toShortCode'        | 'fromShortCode'   | Sex.FEMALE | "'F'"              | "F"
+        'name'               | 'valueOf'         | Sex.MALE   | "'MALE'"           | "MALE"
+    }
+
+    def "fromXMLString - unknown value"() {
+        given:
+        parameters.setProperty(GenericEnumUserType.PARAM_ENUM_CLASS, "kr.pe.kwonnam.hibernate4extrausertypes.Sex")
+        parameters.setProperty(GenericEnumUserType.PARAM_IDENTIFIER_METHOD, "toInt")
+        parameters.setProperty(GenericEnumUserType.PARAM_VALUE_OF_METHOD, "fromInt")
+        genericEnumUserType.setParameterValues(parameters)
+
+        when:
+        genericEnumUserType.fromXMLString("30003")
+
+        then:
+        HibernateException hex = thrown()
+        hex.message == "Unknown XML value [30003] for enumeration class 'class kr.pe.kwonnam.hibernate4extrausertypes.Sex'."
+    }
+
+    def "EnhancedUserType methods - null value"() {
+        given:
+        parameters.setProperty(GenericEnumUserType.PARAM_ENUM_CLASS, "kr.pe.kwonnam.hibernate4extrausertypes.Sex")
+        parameters.setProperty(GenericEnumUserType.PARAM_IDENTIFIER_METHOD, "toInt")
+        parameters.setProperty(GenericEnumUserType.PARAM_VALUE_OF_METHOD, "fromInt")
+        genericEnumUserType.setParameterValues(parameters)
+
+        expect:
+        genericEnumUserType.objectToSQLString(null) == "null"
+        genericEnumUserType.toXMLString(null) == null
+        genericEnumUserType.fromXMLString(null) == null
+    }
+
+    def "fromXMLString - falls back to valueOf method"() {
+        given:
+        parameters.setProperty(GenericEnumUserType.PARAM_ENUM_CLASS, "kr.pe.kwonnam.hibernate4extrausertypes.Sex")
+        parameters.setProperty(GenericEnumUserType.PARAM_IDENTIFIER_METHOD, "toInt")
+        parameters.setProperty(GenericEnumUserType.PARAM_VALUE_OF_METHOD, "fromInt")
+        genericEnumUserType.setParameterValues(parameters)
+
+        expect:
+        genericEnumUserType.fromXMLString("010001") == Sex.MALE
+    }
 }
@@ -1,6 +1,11 @@
 package kr.pe.kwonnam.hibernate4extrausertypes
 
+import groovy.sql.Sql
 import org.hibernate.cfg.Configuration
+import org.hibernate.jdbc.Work
+import spock.lang.Unroll
+
+import java.sql.Connection
 
 class StringBooleanUserTypeIntegrationSpec extends AbstractUserTypeIntegrationSpec {
     @Override
@@ -8,4 +13,49 @@ class StringBooleanUserTypeIntegrationSpec extends AbstractUserTypeIntegrationSp
         configuration.addAnnotatedClass(StringBooleanEntity)
     }
 
+    def "save and get"() {
+        given:
+        StringBooleanEntity entity = new StringBooleanEntity(accessible: true, correct: false)
+
+        when:
+        Long id = session.save(entity)
+        session.flush()
+        session.evict(entity)
+
+        StringBooleanEntity readFromDb = session.get(StringBooleanEntity, id)
+
+        then:
+        session.doWork({ Connection con ->
+            Sql sql = new Sql(con)
+            def row = sql.firstRow("select accessible, correct from string_booleans where id = ?", [id])
+            assert row.accessible == 'Y'
+            assert row.correct == 'wrong'
+        } as Work)
+
+        readFromDb.accessible == true
+        readFromDb.correct == false
+    }
+
+    @Unroll
+    def "get padded and empty values - [#columnValue]"(columnValue, expectedPadded, expectedUnpadded) {
+        given:
+        session.doWork({ Connection con ->
+            new Sql(con).executeInsert("insert into string_booleans (padded, unpadded) values (?, ?)", [columnValue, columnValue])
+        } as Work)
+
+        when:
+        StringBooleanEntity readFromDb = session.createQuery("from StringBooleanEntity").uniqueResult()
+
+        then:
+        readFromDb.padded == expectedPadded
+        readFromDb.unpadded == expectedUnpadded
+
+        where:
+        columnValue | expectedPadded | expectedUnpadded
+        'Y  '       | true           | false
+        ' N '       | false          | false
+        ''          | null           | false
+        '   '       | null           | false
+        'Y'         | true           | true
+    }
 }
@@ -0,0 +1,75 @@
+package kr.pe.kwonnam.hibernate4extrausertypes
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+
+class StringBooleanUserTypeSpec extends Specification {
+    StringBooleanUserType stringBooleanUserType = new StringBooleanUserType()
+
+    Properties parameters = new Properties()
+
+    def "objectToSQLString and toXMLString"() {
+        given:
+        parameters.setProperty(StringBooleanUserType.PARAM_TRUE_VALUE, "it's true")
+        parameters.setProperty(StringBooleanUserType.PARAM_FALSE_VALUE, "N")
+        stringBooleanUserType.setParameterValues(parameters)
+
+        expect:
+        stringBooleanUserType.objectToSQLString(true) == "'it''s true'"
+        stringBooleanUserType.objectToSQLString(false) == "'N'"
+        stringBooleanUserType.toXMLString(true) == "it's true"
+        stringBooleanUserType.toXMLString(false) == "N"
+    }
+
+    @Unroll
+    def "fromXMLString - #xmlValue with ignoreCase #ignoreCase"(xmlValue, ignoreCase, expectedResult) {
+        given:
+        parameters.setProperty(StringBooleanUserType.PARAM_IGNORE_CASE, ignoreCase)
+        stringBooleanUserType.setParameterValues(parameters)
+
+        expect:
+        stringBooleanUserType.fromXMLString(xmlValue) == expectedResult
+
+        where:
+        xmlValue | ignoreCase | expectedResult
+        'Y'      | 'false'    | true
+        'N'      | 'false'    | false
+        'y'      | 'false'    | null
+        'y'      | 'true'     | true
+        'X'      | 'true'     | null
+    }
+
+    @Unroll
+    def "toBoolean - [#value] with emptyAsNull #emptyAsNull, trimPadding #trimPadding"(value, emptyAsNull, trimPadding, expectedResult) {
+        given:
+        parameters.setProperty(StringBooleanUserType.PARAM_UNKNOWN_RESULT, 'false')
+        parameters.setProperty(StringBooleanUserType.PARAM_EMPTY_AS_NULL, emptyAsNull)
+        parameters.setProperty(StringBooleanUserType.PARAM_TRIM_PADDING, trimPadding)
+        stringBooleanUserType.setParameterValues(parameters)
+
+        expect:
+        stringBooleanUserType.toBoolean(value) == expectedResult
+
+        where:
+        value   | emptyAsNull | trimPadding | expectedResult
+        'Y  '   | 'false'     | 'false'     | false
+        'Y  '   | 'false'     | 'true'      | true
+        ' N '   | 'false'     | 'true'      | false
+        ' YY '  | 'false'     | 'true'      | false
+        ''      | 'false'     | 'false'     | false
+        ''      | 'true'      | 'false'     | null
+        '   '   | 'true'      | 'false'     | false
+        '   '   | 'true'      | 'true'      | null
+    }
+
+    def "EnhancedUserType methods - null value"() {
+        given:
+        stringBooleanUserType.setParameterValues(parameters)
+
+        expect:
+        stringBooleanUserType.objectToSQLString(null) == "null"
+        stringBooleanUserType.toXMLString(null) == null
+        stringBooleanUserType.fromXMLString(null) == null
+    }
+}
@@ -0,0 +1,90 @@
+package kr.pe.kwonnam.hibernate4extrausertypes
+
+import org.hibernate.HibernateException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.text.SimpleDateFormat
+
+
+class StringDateFormatSpec extends Specification {
+
+    @Unroll
+    def "isNumeric - #pattern"(pattern, expectedNumeric) {
+        expect:
+        new StringDateFormat(pattern).numeric == expectedNumeric
+
+        where:
+        pattern                 | expectedNumeric
+        'yyyyMMdd'              | true
+        'HHmmss'                | true
+        'yyyyMMddHHmmss'        | true
+        'yyyyMMddHHmmssSSS'     | true
+        'yy'                    | false
+        'yyyy-MM-dd'            | false
+        "yyyy'y'"               | false
+        "'T'HHmm"               | false
+        ''                      | false
+    }
+
+    @Unroll
+    def "decodeNumeric - [#value] with #pattern"(pattern, value, expectedDecoded) {
+        given:
+        StringDateFormat stringDateFormat = new StringDateFormat(pattern)
+        Calendar calendar = stringDateFormat.clearedCalendar()
+
+        expect:
+        stringDateFormat.decodeNumeric(value, 0, value.length(), calendar) == expectedDecoded
+
+        where:
+        pattern    | value       | expectedDecoded
+        'yyyyMMdd' | '20161003'  | true
+        'yyyyMMdd' | '2016103'   | false
+        'yyyyMMdd' | '2016-1-3'  | false
+        'HHmmss'   | '13245x'    | false
+    }
+
+    def "decodeNumeric - date and time parts into one calendar"() {
+        given:
+        StringDateFormat dateFormat = new StringDateFormat('yyyyMMdd')
+        StringDateFormat timeFormat = new StringDateFormat('HHmmss')
+        Calendar calendar = dateFormat.clearedCalendar()
+
+        when:
+        boolean decoded = dateFormat.decodeNumeric('20161003', 0, 8, calendar) && timeFormat.decodeNumeric('132456', 0, 6, calendar)
+
+        then:
+        decoded
+        calendar.time == new GregorianCalendar(2016, Calendar.OCTOBER, 3, 13, 24, 56).time
+    }
+
+    @Unroll
+    def "parse - numeric fast path gives the same result as SimpleDateFormat for [#value] with #pattern"(pattern, value) {
+        expect:
+        new StringDateFormat(pattern).parse(value) == new SimpleDateFormat(pattern).parse(value)
+
+        where:
+        pattern             | value
+        'yyyyMMdd'          | '20161003'
+        'yyyyMMdd'          | '20161003  '
+        'yyyyMMdd'          | '20161301'
+        'yyyyMMdd'          | '20160230'
+        'HHmmss'            | '132456'
+        'yyyyMMddHHmmss'    | '20161003132456'
+        'yyyyMMddHHmmssSSS' | '20161003132456789'
+    }
+
+    def "parse - non numeric pattern uses SimpleDateFormat"() {
+        expect:
+        new StringDateFormat('yyyy-MM-dd').parse('2016-10-03') == new GregorianCalendar(2016, Calendar.OCTOBER, 3).time
+    }
+
+    def "parse - illegal value"() {
+        when:
+        new StringDateFormat('yyyyMMdd').parse('2016100X')
+
+        then:
+        HibernateException hex = thrown()
+        hex.message == 'Failed to parse [2016100X] with [yyyyMMdd].'
+    }
+}
@@ -0,0 +1,72 @@
+package kr.pe.kwonnam.hibernate4extrausertypes
+
+import groovy.sql.Sql
+import org.hibernate.cfg.Configuration
+import org.hibernate.jdbc.Work
+
+import java.sql.Connection
+
+class StringDateTimeCompositeUserTypeIntegrationSpec extends AbstractUserTypeIntegrationSpec {
+    @Override
+    void addAnnotatedClass(Configuration configuration) {
+        configuration.addAnnotatedClass(StringDateTimeEntity)
+    }
+
+    def "save and get"() {
+        given:
+        Date registeredAt = new GregorianCalendar(2016, Calendar.OCTOBER, 3, 13, 24, 56).time
+        StringDateTimeEntity entity = new StringDateTimeEntity(registeredAt: registeredAt)
+
+        when:
+        Long id = session.save(entity)
+        session.flush()
+        session.evict(entity)
+
+        StringDateTimeEntity readFromDb = session.get(StringDateTimeEntity, id)
+
+        then:
+        session.doWork({ Connection con ->
+            Sql sql = new Sql(con)
+            def row = sql.firstRow("select reg_date, reg_time from date_times where id = ?", [id])
+            assert row.reg_date == '20161003'
+            assert row.reg_time == '132456'
+        } as Work)
+
+        readFromDb.registeredAt == registeredAt
+    }
+
+    def "save and get null value"() {
+        given:
+        StringDateTimeEntity entity = new StringDateTimeEntity(registeredAt: null)
+
+        when:
+        Long id = session.save(entity)
+        session.flush()
+        session.evict(entity)
+
+        StringDateTimeEntity readFromDb = session.get(StringDateTimeEntity, id)
+
+        then:
+        session.doWork({ Connection con ->
+            Sql sql = new Sql(con)
+            def row = sql.firstRow("select reg_date, reg_time from date_times where id = ?", [id])
+            assert row.reg_date == null
+            assert row.reg_time == null
+        } as Work)
+
+        readFromDb.registeredAt == null
+    }
+
+    def "get with null time column"() {
+        given:
+        session.doWork({ Connection con ->
+            new Sql(con).executeInsert("insert into date_times (reg_date, reg_time) values ('20161003', null)")
+        } as Work)
+
+        when:
+        StringDateTimeEntity readFromDb = session.createQuery("from StringDateTimeEntity").uniqueResult()
+
+        then:
+        readFromDb.registeredAt == new GregorianCalendar(2016, Calendar.OCTOBER, 3).time
+    }
+}
@@ -0,0 +1,123 @@
+package kr.pe.kwonnam.hibernate4extrausertypes
+
+import org.hibernate.HibernateException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+
+class StringDateTimeCompositeUserTypeSpec extends Specification {
+    StringDateTimeCompositeUserType compositeUserType = new StringDateTimeCompositeUserType()
+
+    Properties parameters = new Properties()
+
+    void setup() {
+        compositeUserType.setParameterValues(parameters)
+    }
+
+    def "setParameterValues - default formats"() {
+        expect:
+        compositeUserType.dateFormat == StringDateTimeCompositeUserType.DEFAULT_DATE_FORMAT
+        compositeUserType.timeFormat == StringDateTimeCompositeUserType.DEFAULT_TIME_FORMAT
+    }
+
+    @Unroll
+    def "getPropertyValue - property #property"(property, expectedValue) {
+        given:
+        Date date = new GregorianCalendar(2016, Calendar.OCTOBER, 3, 13, 24, 56).time
+
+        expect:
+        compositeUserType.getPropertyValue(date, property) == expectedValue
+
+        where:
+        property | expectedValue
+        0        | '20161003'
+        1        | '132456'
+    }
+
+    def "getPropertyValue - null component"() {
+        expect:
+        compositeUserType.getPropertyValue(null, 0) == null
+    }
+
+    @Unroll
+    def "setPropertyValue - property #property to #value"(property, value, expectedDate) {
+        given:
+        Date date = new GregorianCalendar(2016, Calendar.OCTOBER, 3, 13, 24, 56).time
+
+        when:
+        compositeUserType.setPropertyValue(date, property, value)
+
+        then:
+        date == expectedDate
+
+        where:
+        property | value      | expectedDate
+        0        | '20170102' | new GregorianCalendar(2017, Calendar.JANUARY, 2, 13, 24, 56).time
+        1        | '080910'   | new GregorianCalendar(2016, Calendar.OCTOBER, 3, 8, 9, 10).time
+        1        | null       | new GregorianCalendar(2016, Calendar.OCTOBER, 3).time
+    }
+
+    def "getPropertyValue - unknown property index"() {
+        when:
+        compositeUserType.getPropertyValue(new Date(), 2)
+
+        then:
+        HibernateException hex = thrown()
+        hex.message == 'Unknown property index 2'
+    }
+
+    def "setPropertyValue - unknown property index"() {
+        when:
+        compositeUserType.setPropertyValue(new Date(), 2, '20161003')
+
+        then:
+        HibernateException hex = thrown()
+        hex.message == 'Unknown property index 2'
+    }
+
+    def "setPropertyValue - null date part"() {
+        when:
+        compositeUserType.setPropertyValue(new Date(), 0, null)
+
+        then:
+        thrown(HibernateException)
+    }
+
+    @Unroll
+    def "parseDateTime - [#datePart] [#timePart]"(datePart, timePart, expectedDate) {
+        expect:
+        compositeUserType.parseDateTime(datePart, timePart) == expectedDate
+
+        where:
+        datePart   | timePart | expectedDate
+        '20161003' | '132456' | new GregorianCalendar(2016, Calendar.OCTOBER, 3, 13, 24, 56).time
+        '20161003' | null     | new GregorianCalendar(2016, Calendar.OCTOBER, 3).time
+        null       | null     | null
+    }
+
+    def "parseDateTime - null date part with time part"() {
+        when:
+        compositeUserType.parseDateTime(null, '132456')
+
+        then:
+        HibernateException hex = thrown()
+        hex.message == 'Date part is null but time part is [132456].'
+    }
+
+    def "formats with quoted literals are read as written"() {
+        given:
+        parameters.setProperty(StringDateTimeCompositeUserType.PARAM_DATE_FORMAT, "yyyy'y'")
+        parameters.setProperty(StringDateTimeCompositeUserType.PARAM_TIME_FORMAT, "'T'HHmm")
+        compositeUserType.setParameterValues(parameters)
+        Date date = new GregorianCalendar(2016, Calendar.JANUARY, 1, 13, 24).time
+
+        when:
+        String datePart = compositeUserType.getPropertyValue(date, 0)
+        String timePart = compositeUserType.getPropertyValue(date, 1)
+
+        then:
+        datePart == '2016y'
+        timePart == 'T1324'
+        compositeUserType.parseDateTime(datePart, timePart) == date
+    }
+}
@@ -1,7 +1,109 @@
 package kr.pe.kwonnam.hibernate4extrausertypes
 
+import org.hibernate.HibernateException
 import spock.lang.Specification
+import spock.lang.Unroll
 
 
 class StringDateUserTypeSpec extends Specification {
+    StringDateUserType stringDateUserType = new StringDateUserType()
+
+    Properties parameters = new Properties()
+
+    def "setParameterValues - default format"() {
+        when:
+        stringDateUserType.setParameterValues(parameters)
+
+        then:
+        stringDateUserType.format == StringDateUserType.DEFAULT_FORMAT
+    }
+
+    def "objectToSQLString, toXMLString and fromXMLString"() {
+        given:
+        parameters.setProperty(StringDateUserType.PARAM_FORMAT, "yyyyMMdd")
+        stringDateUserType.setParameterValues(parameters)
+        Date date = new GregorianCalendar(2016, Calendar.OCTOBER, 3).time
+
+        expect:
+        stringDateUserType.objectToSQLString(date) == "'20161003'"
+        stringDateUserType.toXMLString(date) == "20161003"
+        stringDateUserType.fromXMLString("20161003") == date
+    }
+
+    def "fromXMLString - illegal value"() {
+        given:
+        parameters.setProperty(StringDateUserType.PARAM_FORMAT, "yyyyMMdd")
+        stringDateUserType.setParameterValues(parameters)
+
+        when:
+        stringDateUserType.fromXMLString("illegal")
+
+        then:
+        HibernateException hex = thrown()
+        hex.message == 'Failed to parse [illegal] with [yyyyMMdd].'
+    }
+
+    def "toDate - empty string without emptyAsNull"() {
+        given:
+        stringDateUserType.setParameterValues(parameters)
+
+        when:
+        stringDateUserType.toDate("")
+
+        then:
+        HibernateException hex = thrown()
+        hex.message == 'Failed to parse [] with [yyyyMMddHHmmss].'
+    }
+
+    @Unroll
+    def "toDate - [#value] with emptyAsNull #emptyAsNull, trimPadding #trimPadding"(value, emptyAsNull, trimPadding, expectedResult) {
+        given:
+        parameters.setProperty(StringDateUserType.PARAM_FORMAT, "yyyyMMdd")
+        parameters.setProperty(StringDateUserType.PARAM_EMPTY_AS_NULL, emptyAsNull)
+        parameters.setProperty(StringDateUserType.PARAM_TRIM_PADDING, trimPadding)
+        stringDateUserType.setParameterValues(parameters)
+
+        expect:
+        stringDateUserType.toDate(value) == expectedResult
+
+        where:
+        value          | emptyAsNull | trimPadding | expectedResult
+        '20161003'     | 'false'     | 'false'     | new GregorianCalendar(2016, Calendar.OCTOBER, 3).time
+        '  20161003  ' | 'false'     | 'true'      | new GregorianCalendar(2016, Calendar.OCTOBER, 3).time
+        '20161003  '   | 'false'     | 'false'     | new GregorianCalendar(2016, Calendar.OCTOBER, 3).time
+        ''             | 'true'      | 'false'     | null
+        '        '     | 'true'      | 'true'      | null
+    }
+
+    @Unroll
+    def "toDate - trailing data [#value] with trimPadding #trimPadding"(value, trimPadding) {
+        given:
+        parameters.setProperty(StringDateUserType.PARAM_FORMAT, "yyyyMMdd")
+        parameters.setProperty(StringDateUserType.PARAM_TRIM_PADDING, trimPadding)
+        stringDateUserType.setParameterValues(parameters)
+
+        when:
+        stringDateUserType.toDate(value)
+
+        then:
+        HibernateException hex = thrown()
+        hex.message == "Failed to parse [${value}] with [yyyyMMdd]."
+
+        where:
+        value         | trimPadding
+        '20161003XYZ' | 'false'
+        '20161003XYZ' | 'true'
+        '20161003 9'  | 'true'
+        '20161003 9'  | 'false'
+    }
+
+    def "EnhancedUserType methods - null value"() {
+        given:
+        stringDateUserType.setParameterValues(parameters)
+
+        expect:
+        stringDateUserType.objectToSQLString(null) == "null"
+        stringDateUserType.toXMLString(null) == null
+        stringDateUserType.fromXMLString(null) == null
+    }
 }
@@ -0,0 +1,79 @@
+package kr.pe.kwonnam.hibernate4extrausertypes;
+
+import org.hibernate.annotations.Columns;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.util.Date;
+
+/**
+ * {@link ExtraUserTypesIntegrator}로 등록된 타입 이름을 사용하는 엔티티.
+ */
+@Entity
+@Table(name = "named_types")
+public class NamedTypeEntity {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Type(type = ExtraUserTypesIntegrator.YN_BOOLEAN)
+    @Column(name = "accessible", columnDefinition = "char(1)")
+    private Boolean accessible;
+
+    @Type(type = ExtraUserTypesIntegrator.YYYYMMDD_DATE)
+    @Column(name = "birthday", length = 8)
+    private Date birthday;
+
+    @Type(type = "sex-by-int")
+    @Column(name = "sex_by_int")
+    private Sex sexByInt;
+
+    @Columns(columns = {
+        @Column(name = "reg_date", columnDefinition = "char(8)"),
+        @Column(name = "reg_time", columnDefinition = "char(6)")
+    })
+    @Type(type = ExtraUserTypesIntegrator.YYYYMMDD_HHMMSS_DATETIME)
+    private Date registeredAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Boolean getAccessible() {
+        return accessible;
+    }
+
+    public void setAccessible(Boolean accessible) {
+        this.accessible = accessible;
+    }
+
+    public Date getBirthday() {
+        return birthday;
+    }
+
+    public void setBirthday(Date birthday) {
+        this.birthday = birthday;
+    }
+
+    public Sex getSexByInt() {
+        return sexByInt;
+    }
+
+    public void setSexByInt(Sex sexByInt) {
+        this.sexByInt = sexByInt;
+    }
+
+    public Date getRegisteredAt() {
+        return registeredAt;
+    }
+
+    public void setRegisteredAt(Date registeredAt) {
+        this.registeredAt = registeredAt;
+    }
+}
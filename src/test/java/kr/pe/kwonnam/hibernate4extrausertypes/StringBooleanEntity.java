@@ -4,10 +4,14 @@ import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.Column;
+import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Table;
 
+@Entity
+@Table(name = "string_booleans")
 public class StringBooleanEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,4 +39,64 @@ public class StringBooleanEntity {
     )
     @Column(name = "correct", length = 5)
     private Boolean correct;
+
+    @Type(
+        type = "kr.pe.kwonnam.hibernate4extrausertypes.StringBooleanUserType",
+        parameters = {
+            @Parameter(name = StringBooleanUserType.PARAM_UNKNOWN_RESULT, value = "false"),
+            @Parameter(name = StringBooleanUserType.PARAM_EMPTY_AS_NULL, value = "true"),
+            @Parameter(name = StringBooleanUserType.PARAM_TRIM_PADDING, value = "true")
+        }
+    )
+    @Column(name = "padded", length = 5)
+    private Boolean padded;
+
+    @Type(
+        type = "kr.pe.kwonnam.hibernate4extrausertypes.StringBooleanUserType",
+        parameters = {
+            @Parameter(name = StringBooleanUserType.PARAM_UNKNOWN_RESULT, value = "false")
+        }
+    )
+    @Column(name = "unpadded", length = 5)
+    private Boolean unpadded;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Boolean getAccessible() {
+        return accessible;
+    }
+
+    public void setAccessible(Boolean accessible) {
+        this.accessible = accessible;
+    }
+
+    public Boolean getCorrect() {
+        return correct;
+    }
+
+    public void setCorrect(Boolean correct) {
+        this.correct = correct;
+    }
+
+    public Boolean getPadded() {
+        return padded;
+    }
+
+    public void setPadded(Boolean padded) {
+        this.padded = padded;
+    }
+
+    public Boolean getUnpadded() {
+        return unpadded;
+    }
+
+    public void setUnpadded(Boolean unpadded) {
+        this.unpadded = unpadded;
+    }
 }
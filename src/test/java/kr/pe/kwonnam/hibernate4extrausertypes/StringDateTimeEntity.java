@@ -0,0 +1,47 @@
+package kr.pe.kwonnam.hibernate4extrausertypes;
+
+import org.hibernate.annotations.Columns;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.util.Date;
+
+@Entity
+@Table(name = "date_times")
+public class StringDateTimeEntity {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Columns(columns = {
+        @Column(name = "reg_date", columnDefinition = "char(8)"),
+        @Column(name = "reg_time", columnDefinition = "char(6)")
+    })
+    @Type(
+        type = "kr.pe.kwonnam.hibernate4extrausertypes.StringDateTimeCompositeUserType",
+        parameters = {
+            @Parameter(name = StringDateTimeCompositeUserType.PARAM_DATE_FORMAT, value = "yyyyMMdd"),
+            @Parameter(name = StringDateTimeCompositeUserType.PARAM_TIME_FORMAT, value = "HHmmss")
+        }
+    )
+    private Date registeredAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Date getRegisteredAt() {
+        return registeredAt;
+    }
+
+    public void setRegisteredAt(Date registeredAt) {
+        this.registeredAt = registeredAt;
+    }
+}